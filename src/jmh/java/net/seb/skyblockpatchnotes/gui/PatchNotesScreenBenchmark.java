@@ -0,0 +1,105 @@
+package net.seb.skyblockpatchnotes.gui;
+
+import net.seb.skyblockpatchnotes.scraper.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The screen-side work: building content elements from the fetched lines, and headless models
+ * of the per-frame visibility work in {@link PatchNotesScreen#render}, before and after the layout index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PatchNotesScreenBenchmark {
+    // A 1080p window at GUI scale 2, minus the title, link and Done button
+    private static final int CONTENT_TOP = 55;
+    private static final int CONTENT_BOTTOM = 540 - 40;
+    private static final int LOADED_IMAGE_HEIGHT = 410;
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private List<String> rawContent;
+    private List<ContentElement> elements;
+    private ContentLayout layout;
+    private int maxScroll;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        rawContent = Fixtures.patchNotes(size);
+        elements = PatchNotesContent.build(rawContent);
+
+        // Render as if every image has finished loading
+        int totalHeight = 0;
+        for (ContentElement element : elements) {
+            if (element.type == ContentElement.Type.IMAGE) {
+                element.height = LOADED_IMAGE_HEIGHT;
+            }
+            totalHeight += element.height;
+        }
+        maxScroll = Math.max(1, totalHeight - (CONTENT_BOTTOM - CONTENT_TOP));
+        layout = new ContentLayout(elements);
+    }
+
+    @Benchmark
+    public List<ContentElement> buildContent() {
+        return PatchNotesContent.build(rawContent);
+    }
+
+    /**
+     * One frame's worth of layout the way render() used to do it: walk every element to find the
+     * visible ones, then sum the heights again for the scroll hints
+     */
+    @Benchmark
+    public int visibilityLoop(Blackhole blackhole) {
+        // Move through the post a bit each frame so every part of it is measured
+        int scrollOffset = (frame++ * 37) % maxScroll;
+        int yPos = CONTENT_TOP - scrollOffset;
+
+        for (ContentElement element : elements) {
+            if (yPos + element.height > CONTENT_TOP && yPos < CONTENT_BOTTOM) {
+                blackhole.consume(element);
+            }
+            yPos += element.height;
+        }
+
+        int totalContentHeight = 0;
+        for (ContentElement element : elements) {
+            totalContentHeight += element.height;
+        }
+        return totalContentHeight;
+    }
+
+    /**
+     * The same frame through the layout index: binary search for the first visible element, stop at
+     * the bottom edge, and read the total height from the index
+     */
+    @Benchmark
+    public int indexedVisibility(Blackhole blackhole) {
+        int scrollOffset = (frame++ * 37) % maxScroll;
+        int first = layout.indexAt(scrollOffset);
+        int yPos = CONTENT_TOP - scrollOffset + layout.top(first);
+
+        for (int i = first; i < elements.size() && yPos < CONTENT_BOTTOM; i++) {
+            ContentElement element = elements.get(i);
+            if (yPos + element.height > CONTENT_TOP) {
+                blackhole.consume(element);
+            }
+            yPos += element.height;
+        }
+
+        return layout.totalHeight();
+    }
+}
@@ -0,0 +1,54 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Loads the recorded Hypixel forum pages used by the benchmarks.
+ * Update threads come in three sizes: "small", "medium" and "large" (a yearly-update sized post).
+ */
+public final class Fixtures {
+    public static final String FORUMS_URL = "https://hypixel.net/forums/";
+    public static final String NEWS_URL = "https://hypixel.net/forums/news-and-announcements.1/";
+    public static final String THREAD_URL = "https://hypixel.net/threads/hypixel-skyblock-patch-notes.5800000/";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Reads a fixture from src/jmh/resources/fixtures
+     */
+    public static String read(String name) {
+        try (InputStream stream = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Missing fixture: " + name);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String threadHtml(String size) {
+        return read("thread-" + size + ".html");
+    }
+
+    public static Document document(String name, String baseUri) {
+        return Jsoup.parse(read(name), baseUri);
+    }
+
+    /**
+     * Runs the fetcher's parser over an update thread fixture, giving the lines the screen receives
+     */
+    public static List<String> patchNotes(String size) {
+        HypixelPatchNotesFetcher.PatchNotesData data = new HypixelPatchNotesFetcher.PatchNotesData();
+        HypixelPatchNotesFetcher.parseUpdateThread(Jsoup.parse(threadHtml(size), THREAD_URL), data);
+        return data.content;
+    }
+}
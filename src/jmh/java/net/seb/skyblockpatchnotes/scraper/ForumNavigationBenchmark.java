@@ -0,0 +1,54 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steps 1-4 of a fetch: parsing the forum index and news section, and finding the links to follow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ForumNavigationBenchmark {
+    private String forumsHtml;
+    private String newsHtml;
+    private Document forumsPage;
+    private Document newsPage;
+
+    @Setup
+    public void setup() {
+        forumsHtml = Fixtures.read("forums.html");
+        newsHtml = Fixtures.read("news.html");
+        forumsPage = Jsoup.parse(forumsHtml, Fixtures.FORUMS_URL);
+        newsPage = Jsoup.parse(newsHtml, Fixtures.NEWS_URL);
+    }
+
+    @Benchmark
+    public Document parseForumsPage() {
+        return Jsoup.parse(forumsHtml, Fixtures.FORUMS_URL);
+    }
+
+    @Benchmark
+    public String findNewsSectionUrl() {
+        return HypixelPatchNotesFetcher.findNewsSectionUrl(forumsPage);
+    }
+
+    @Benchmark
+    public Document parseNewsPage() {
+        return Jsoup.parse(newsHtml, Fixtures.NEWS_URL);
+    }
+
+    @Benchmark
+    public String findLatestSkyBlockUpdate() {
+        return HypixelPatchNotesFetcher.findLatestSkyBlockUpdate(newsPage);
+    }
+}
@@ -0,0 +1,91 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step 5 of a fetch: parsing an update thread into formatted lines, for each fixture size.
+ * The parser no longer modifies the document, so one parsed page is shared by every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UpdateThreadBenchmark {
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private String threadHtml;
+    private Document threadPage;
+    private Element firstPost;
+    private String postText;
+    private HypixelPatchNotesFetcher.PatchNotesData parsed;
+
+    @Setup
+    public void setup() {
+        threadHtml = Fixtures.threadHtml(size);
+        threadPage = Jsoup.parse(threadHtml, Fixtures.THREAD_URL);
+        firstPost = threadPage.selectFirst(".message-body .bbWrapper");
+        postText = firstPost.text();
+        parsed = parseUpdateThread();
+    }
+
+    @Benchmark
+    public Document parseThreadPage() {
+        return Jsoup.parse(threadHtml, Fixtures.THREAD_URL);
+    }
+
+    @Benchmark
+    public HypixelPatchNotesFetcher.PatchNotesData parseUpdateThread() {
+        HypixelPatchNotesFetcher.PatchNotesData data = new HypixelPatchNotesFetcher.PatchNotesData();
+        HypixelPatchNotesFetcher.parseUpdateThread(threadPage, data);
+        return data;
+    }
+
+    /**
+     * A refresh of a post that has not changed: every block is hashed, none is parsed again
+     */
+    @Benchmark
+    public HypixelPatchNotesFetcher.PatchNotesData reparseUnchanged() {
+        HypixelPatchNotesFetcher.PatchNotesData data = new HypixelPatchNotesFetcher.PatchNotesData();
+        HypixelPatchNotesFetcher.parseUpdateThread(threadPage, data, parsed);
+        return data;
+    }
+
+    @Benchmark
+    public List<HypixelPatchNotesFetcher.Block> parseContent() {
+        return HypixelPatchNotesFetcher.parseContent(firstPost, Map.of());
+    }
+
+    /**
+     * The same work as {@link #parseContent()} on a single thread, to compare against the fork-join path
+     */
+    @Benchmark
+    public List<HypixelPatchNotesFetcher.Block> parseContentSerial() {
+        List<HypixelPatchNotesFetcher.Block> blocks = new ArrayList<>();
+        Elements elements = firstPost.children();
+        HypixelPatchNotesFetcher.parseBlocks(elements, 0, elements.size(), Map.of(), blocks);
+        return blocks;
+    }
+
+    @Benchmark
+    public List<String> wrapText() {
+        List<String> lines = new ArrayList<>();
+        HypixelPatchNotesFetcher.wrapText(postText, 80, "§7", new StringBuilder(), lines);
+        return lines;
+    }
+}
@@ -0,0 +1,214 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A local HTTP server that stands in for the Hypixel forums and image host.
+ * Serves the recorded forum pages from /fixtures and generated PNG attachments, with
+ * tunable latency, bandwidth, error rate and redirect chains.
+ */
+public class ForumStandIn implements AutoCloseable {
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    /**
+     * How the stand-in misbehaves. Bandwidth is capped per response; 0 means unlimited.
+     */
+    public record Conditions(int latencyMillis, int jitterMillis, long bytesPerSecond,
+                             double errorRate, int redirectHops) {
+    }
+
+    private final Conditions conditions;
+    private final byte[] forumsPage;
+    private final byte[] newsPage;
+    private final byte[] threadPage;
+    private final Map<String, byte[]> images = new ConcurrentHashMap<>();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger threadsCreated = new AtomicInteger();
+    private final ExecutorService executor;
+    private final HttpServer server;
+
+    public ForumStandIn(String threadSize, Conditions conditions) throws IOException {
+        this.conditions = conditions;
+        this.forumsPage = fixture("forums.html");
+        this.newsPage = fixture("news.html");
+        this.threadPage = fixture("thread-" + threadSize + ".html");
+
+        // Counted separately so the harness can tell its own threads from the client's
+        this.executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "ForumStandIn-" + threadsCreated.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * The site root, e.g. http://127.0.0.1:54321
+     */
+    public String siteUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public String forumsUrl() {
+        return siteUrl() + "/forums/";
+    }
+
+    public long bytesSent() {
+        return bytesSent.get();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public int threadsCreated() {
+        return threadsCreated.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+
+            sleep(conditions.latencyMillis() + (conditions.jitterMillis() > 0
+                    ? ThreadLocalRandom.current().nextInt(conditions.jitterMillis() + 1) : 0));
+
+            if (conditions.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < conditions.errorRate()) {
+                send(exchange, 503, "text/plain", "Service Unavailable".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            // Image redirect chains: /attachments/x -> /r/N/attachments/x -> ... -> /r/1/attachments/x
+            if (path.startsWith("/attachments/") && conditions.redirectHops() > 0) {
+                redirect(exchange, "/r/" + conditions.redirectHops() + path);
+                return;
+            }
+            if (path.startsWith("/r/")) {
+                int slash = path.indexOf('/', 3);
+                int hop = Integer.parseInt(path.substring(3, slash));
+                String target = path.substring(slash);
+                if (hop > 1) {
+                    redirect(exchange, "/r/" + (hop - 1) + target);
+                } else {
+                    send(exchange, 200, "image/png", image(target));
+                }
+                return;
+            }
+
+            if (path.startsWith("/attachments/")) {
+                send(exchange, 200, "image/png", image(path));
+            } else if (path.equals("/forums/")) {
+                send(exchange, 200, "text/html; charset=utf-8", forumsPage);
+            } else if (path.startsWith("/forums/news-and-announcements")) {
+                send(exchange, 200, "text/html; charset=utf-8", newsPage);
+            } else if (path.startsWith("/threads/")) {
+                send(exchange, 200, "text/html; charset=utf-8", threadPage);
+            } else {
+                send(exchange, 404, "text/plain", "Not Found".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+
+        OutputStream out = exchange.getResponseBody();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            out.write(body, offset, length);
+            bytesSent.addAndGet(length);
+
+            if (conditions.bytesPerSecond() > 0) {
+                sleep(length * 1000L / conditions.bytesPerSecond());
+            }
+        }
+    }
+
+    /**
+     * A deterministic PNG per path, roughly the size of a forum screenshot
+     */
+    private byte[] image(String path) {
+        return images.computeIfAbsent(path, key -> {
+            Random random = new Random(key.hashCode());
+            int width = 800;
+            int height = 300 + random.nextInt(4) * 100;
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            // 8x8 blocks of colour, so the PNG does not compress down to nothing
+            for (int y = 0; y < height; y += 8) {
+                for (int x = 0; x < width; x += 8) {
+                    int rgb = random.nextInt(0x1000000);
+                    for (int dy = 0; dy < 8 && y + dy < height; dy++) {
+                        for (int dx = 0; dx < 8 && x + dx < width; dx++) {
+                            image.setRGB(x + dx, y + dy, rgb);
+                        }
+                    }
+                }
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                ImageIO.write(image, "png", out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        });
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream stream = ForumStandIn.class.getResourceAsStream("/fixtures/" + name)) {
+            if (stream == null) {
+                throw new IOException("Missing fixture: " + name);
+            }
+            return stream.readAllBytes();
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
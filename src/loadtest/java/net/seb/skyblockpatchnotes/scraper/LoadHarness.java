@@ -0,0 +1,166 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives repeated fetch-and-load cycles against a {@link ForumStandIn} and reports
+ * time-to-first-content, time-to-fully-loaded, threads created and bytes transferred.
+ * <p>
+ * Options are passed as --name=value, e.g. {@code ./gradlew loadTest --args="--size=large --latency=300"}:
+ * size (small, medium, large), cycles, warmup, latency and jitter (ms), bandwidth (bytes/s per response),
+ * error-rate (0-1) and redirects (hops per image).
+ */
+public class LoadHarness {
+    // Same pattern the screen uses to find image lines
+    private static final Pattern IMG_PATTERN = Pattern.compile("<img[^>]+src=[\"']([^\"']+)[\"']");
+    private static final String LIVE_SITE = "https://hypixel.net";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String size = options.getOrDefault("size", "medium");
+        int cycles = Integer.parseInt(options.getOrDefault("cycles", "20"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        ForumStandIn.Conditions conditions = new ForumStandIn.Conditions(
+                Integer.parseInt(options.getOrDefault("latency", "50")),
+                Integer.parseInt(options.getOrDefault("jitter", "0")),
+                Long.parseLong(options.getOrDefault("bandwidth", "0")),
+                Double.parseDouble(options.getOrDefault("error-rate", "0")),
+                Integer.parseInt(options.getOrDefault("redirects", "0")));
+
+        System.out.printf(Locale.ROOT, "Load harness: size=%s cycles=%d %s%n", size, cycles, conditions);
+
+        try (ForumStandIn standIn = new ForumStandIn(size, conditions)) {
+            HypixelPatchNotesFetcher.setBaseUrls(standIn.forumsUrl(), standIn.siteUrl());
+            ImageDownloader.setUrlRewriter(url -> url.startsWith(LIVE_SITE)
+                    ? standIn.siteUrl() + url.substring(LIVE_SITE.length())
+                    : url);
+
+            for (int i = 0; i < warmup; i++) {
+                runCycle(standIn);
+            }
+
+            List<CycleResult> results = new ArrayList<>();
+            for (int i = 0; i < cycles; i++) {
+                results.add(runCycle(standIn));
+            }
+
+            report(results);
+        } finally {
+            HypixelPatchNotesFetcher.resetBaseUrls();
+            ImageDownloader.setUrlRewriter(url -> url);
+        }
+    }
+
+    private record CycleResult(long firstContentNanos, long fullyLoadedNanos, int images,
+                               int failedImages, boolean fetchFailed, long threadsCreated, long bytes) {
+    }
+
+    /**
+     * One screen open: fetch and parse the latest update, then download every image in it
+     */
+    private static CycleResult runCycle(ForumStandIn standIn) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long threadsBefore = threads.getTotalStartedThreadCount() - standIn.threadsCreated();
+        long bytesBefore = standIn.bytesSent();
+        long start = System.nanoTime();
+
+        HypixelPatchNotesFetcher.PatchNotesData data = HypixelPatchNotesFetcher.fetchLatestPatchNotesAsync().join();
+        long firstContent = System.nanoTime() - start;
+        // The fetcher reports failures as an error page rather than an exception
+        boolean fetchFailed = data.error;
+
+        Set<String> imageUrls = new LinkedHashSet<>();
+        for (String line : data.content) {
+            Matcher matcher = IMG_PATTERN.matcher(line);
+            if (matcher.find()) {
+                imageUrls.add(matcher.group(1));
+            }
+        }
+
+        List<CompletableFuture<byte[]>> downloads = new ArrayList<>();
+        int counter = 0;
+        for (String imageUrl : imageUrls) {
+            downloads.add(ImageDownloader.downloadAsync(imageUrl, "ImageLoader-" + counter++));
+        }
+
+        int failedImages = 0;
+        for (CompletableFuture<byte[]> download : downloads) {
+            try {
+                download.join();
+            } catch (Exception e) {
+                failedImages++;
+            }
+        }
+        long fullyLoaded = System.nanoTime() - start;
+
+        long threadsCreated = threads.getTotalStartedThreadCount() - standIn.threadsCreated() - threadsBefore;
+        return new CycleResult(firstContent, fullyLoaded, imageUrls.size(), failedImages, fetchFailed,
+                threadsCreated, standIn.bytesSent() - bytesBefore);
+    }
+
+    private static void report(List<CycleResult> results) {
+        List<Long> firstContent = new ArrayList<>();
+        List<Long> fullyLoaded = new ArrayList<>();
+        long threads = 0;
+        long bytes = 0;
+        int images = 0;
+        int failedImages = 0;
+        int failedFetches = 0;
+
+        for (CycleResult result : results) {
+            firstContent.add(result.firstContentNanos());
+            fullyLoaded.add(result.fullyLoadedNanos());
+            threads += result.threadsCreated();
+            bytes += result.bytes();
+            images += result.images();
+            failedImages += result.failedImages();
+            if (result.fetchFailed()) {
+                failedFetches++;
+            }
+        }
+
+        int cycles = results.size();
+        System.out.printf(Locale.ROOT, "Time to first content:  p50 %8.1f ms   p99 %8.1f ms%n",
+                percentile(firstContent, 50), percentile(firstContent, 99));
+        System.out.printf(Locale.ROOT, "Time to fully loaded:   p50 %8.1f ms   p99 %8.1f ms%n",
+                percentile(fullyLoaded, 50), percentile(fullyLoaded, 99));
+        System.out.printf(Locale.ROOT, "Threads created:        %d total, %.1f per cycle%n", threads, (double) threads / cycles);
+        System.out.printf(Locale.ROOT, "Bytes transferred:      %d total, %.1f KiB per cycle%n", bytes, bytes / 1024.0 / cycles);
+        System.out.printf(Locale.ROOT, "Images:                 %d requested, %d failed%n", images, failedImages);
+        System.out.printf(Locale.ROOT, "Failed fetches:         %d of %d cycles%n", failedFetches, cycles);
+    }
+
+    /**
+     * Nearest-rank percentile, in milliseconds
+     */
+    private static double percentile(List<Long> nanos, int percentile) {
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1)) / 1_000_000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int equals = arg.indexOf('=');
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+}
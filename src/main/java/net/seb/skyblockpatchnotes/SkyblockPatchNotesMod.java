@@ -2,18 +2,28 @@ package net.seb.skyblockpatchnotes;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.text.Text;
 import net.seb.skyblockpatchnotes.gui.PatchNotesScreen; // Correct import
+import net.seb.skyblockpatchnotes.metrics.PatchNotesMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static net.fabricmc.fabric.api.client.command.v2.ClientCommandManager.literal;
 
 // Changed to ClientModInitializer
 public class SkyblockPatchNotesMod implements ClientModInitializer {
     public static final String MOD_ID = "skyblockpatchnotes";
     public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
+    // Verbose per-step and per-image logging; enable with -Dskyblockpatchnotes.debug=true
+    public static final boolean DEBUG = Boolean.getBoolean("skyblockpatchnotes.debug");
+    private static final String STATS_FILE = "skyblockpatchnotes-stats.json";
 
     @Override
     public void onInitializeClient() {
@@ -39,6 +49,23 @@ public class SkyblockPatchNotesMod implements ClientModInitializer {
 
                                 return 1; // Indicate successful execution
                             })
+                            // "/showpatchnotes stats" dumps the mod's metrics as JSON
+                            .then(literal("stats")
+                                    .executes(context -> {
+                                        String json = PatchNotesMetrics.toJsonString();
+                                        Path statsFile = FabricLoader.getInstance().getGameDir().resolve(STATS_FILE);
+                                        try {
+                                            Files.writeString(statsFile, json);
+                                        } catch (IOException e) {
+                                            LOGGER.error("Failed to write {}", statsFile, e);
+                                            context.getSource().sendError(Text.literal("Could not write " + STATS_FILE));
+                                            return 0;
+                                        }
+
+                                        LOGGER.info("Patch notes stats:\n{}", json);
+                                        context.getSource().sendFeedback(Text.literal("Patch notes stats written to " + STATS_FILE));
+                                        return 1;
+                                    }))
             );
         });
     }
@@ -0,0 +1,18 @@
+package net.seb.skyblockpatchnotes.gui;
+
+/**
+ * A single line of text or an image shown on the {@link PatchNotesScreen}.
+ */
+class ContentElement {
+    enum Type { TEXT, IMAGE }
+    Type type;
+    String content;
+    int height; // Dynamic height based on scaled image size or LINE_HEIGHT
+    boolean changed; // Part of a block that changed in the last refresh
+
+    ContentElement(Type type, String content) {
+        this.type = type;
+        this.content = content;
+        this.height = type == Type.TEXT ? PatchNotesScreen.LINE_HEIGHT : PatchNotesScreen.IMAGE_INITIAL_HEIGHT;
+    }
+}
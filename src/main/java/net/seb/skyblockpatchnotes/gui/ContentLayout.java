@@ -0,0 +1,85 @@
+package net.seb.skyblockpatchnotes.gui;
+
+import java.util.List;
+
+/**
+ * Running y positions of the screen's content elements, so the element at any scroll offset can be
+ * found with a binary search instead of walking the whole post.
+ * Positions are only recomputed after {@link #invalidate()}, e.g. when an image finishes loading.
+ */
+final class ContentLayout {
+    private final List<ContentElement> elements;
+    // tops[i] is the y of element i relative to the top of the content; tops[size] is the total height
+    private int[] tops = new int[1];
+    private boolean dirty = true;
+
+    ContentLayout(List<ContentElement> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Marks the positions as stale after elements were added, removed or changed height
+     */
+    void invalidate() {
+        dirty = true;
+    }
+
+    int size() {
+        ensureComputed();
+        return tops.length - 1;
+    }
+
+    int totalHeight() {
+        ensureComputed();
+        return tops[tops.length - 1];
+    }
+
+    /**
+     * The y of the element at index, or the total height for index == size()
+     */
+    int top(int index) {
+        ensureComputed();
+        return tops[index];
+    }
+
+    /**
+     * Index of the element covering y, clamped to the first and last element. -1 if there are none.
+     */
+    int indexAt(double y) {
+        ensureComputed();
+        int size = tops.length - 1;
+        if (size == 0) {
+            return -1;
+        }
+
+        // Last element whose top is at or above y
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (tops[mid] <= y) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void ensureComputed() {
+        if (!dirty && tops.length == elements.size() + 1) {
+            return;
+        }
+
+        if (tops.length != elements.size() + 1) {
+            tops = new int[elements.size() + 1];
+        }
+        int y = 0;
+        for (int i = 0; i < elements.size(); i++) {
+            tops[i] = y;
+            y += elements.get(i).height;
+        }
+        tops[elements.size()] = y;
+        dirty = false;
+    }
+}
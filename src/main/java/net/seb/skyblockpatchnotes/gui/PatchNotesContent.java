@@ -0,0 +1,38 @@
+package net.seb.skyblockpatchnotes.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the screen's content elements from the fetcher's formatted lines.
+ * Uses no Minecraft classes, so it can run (and be benchmarked) headless.
+ */
+final class PatchNotesContent {
+    private static final Pattern IMG_PATTERN = Pattern.compile("<img[^>]+src=[\"']([^\"']+)[\"']");
+
+    private PatchNotesContent() {
+    }
+
+    /**
+     * Converts raw lines into text and image elements, in order
+     */
+    static List<ContentElement> build(List<String> rawContent) {
+        List<ContentElement> elements = new ArrayList<>(rawContent.size());
+        Matcher matcher = IMG_PATTERN.matcher("");
+
+        for (String line : rawContent) {
+            matcher.reset(line);
+            if (matcher.find()) {
+                elements.add(new ContentElement(ContentElement.Type.IMAGE, matcher.group(1)));
+            } else if (!line.trim().isEmpty()) {
+                elements.add(new ContentElement(ContentElement.Type.TEXT, line));
+            } else {
+                elements.add(new ContentElement(ContentElement.Type.TEXT, ""));
+            }
+        }
+
+        return elements;
+    }
+}
@@ -9,17 +9,18 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
 import net.seb.skyblockpatchnotes.SkyblockPatchNotesMod;
+import net.seb.skyblockpatchnotes.metrics.PatchNotesMetrics;
 import net.seb.skyblockpatchnotes.scraper.HypixelPatchNotesFetcher;
+import net.seb.skyblockpatchnotes.scraper.ImageDownloader;
+import org.lwjgl.glfw.GLFW;
 
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * A custom screen to display patch notes with scrolling functionality.
@@ -28,28 +29,54 @@ public class PatchNotesScreen extends Screen {
     private final Screen parent;
     private double scrollOffset = 0;
     private double targetScrollOffset = 0;
-    private static final int LINE_HEIGHT = 12;
+    static final int LINE_HEIGHT = 12;
     private static final int PADDING = 10;
-    private static final int IMAGE_INITIAL_HEIGHT = 150; // Used while loading
+    static final int IMAGE_INITIAL_HEIGHT = 150; // Used while loading
+    // Fraction of the remaining scroll distance covered per frame at REFERENCE_FPS; scaled by frame time
     private static final double SCROLL_SPEED = 0.2;
+    private static final double REFERENCE_FPS = 60.0;
+    private static final double SCROLL_SETTLE_DISTANCE = 0.5; // Closer than this, the scroll snaps to its target
+    private static final int SCROLLBAR_WIDTH = 4;
+    private static final int SCROLLBAR_MIN_THUMB = 16;
+    private static final Text LINK_TEXT = Text.literal("View on Hypixel Forums")
+            .styled(s -> s.withColor(Formatting.AQUA).withUnderline(true));
 
     private final List<ContentElement> contentElements = new ArrayList<>();
+    private final ContentLayout layout = new ContentLayout(contentElements);
+    // contentElements grouped by the top-level block of the post they came from, so a refresh can keep unchanged ones
+    private final List<ContentBlock> contentBlocks = new ArrayList<>();
+    private HypixelPatchNotesFetcher.PatchNotesData patchData = null;
+    private boolean refreshing = false;
     private String patchUrl = null;
     private String patchTitle = "Hypixel SkyBlock Patch Notes";
 
     private final Map<String, ImageInfo> loadedImages = new HashMap<>();
     private int imageCounter = 0;
-
-    private static class ContentElement {
-        enum Type { TEXT, IMAGE }
-        Type type;
-        String content;
-        int height; // Dynamic height based on scaled image size or LINE_HEIGHT
-
-        ContentElement(Type type, String content) {
-            this.type = type;
-            this.content = content;
-            this.height = type == Type.TEXT ? LINE_HEIGHT : IMAGE_INITIAL_HEIGHT;
+    private int pendingImages = 0;
+
+    // Per-frame state, only recomputed while scrolling, loading or after the layout changed
+    private boolean viewDirty = true;
+    private int firstVisible = -1;
+    private long lastFrameNanos = 0;
+    private int linkWidth;
+    private boolean linkHovered = false;
+    private boolean draggingScrollbar = false;
+    private double dragGrabOffset;
+
+    // Metrics overlay, toggled with F7
+    private static final int STATS_KEY = GLFW.GLFW_KEY_F7;
+    private static final long STATS_REFRESH_NANOS = 500_000_000L;
+    private boolean showStats = false;
+    private List<String> statsLines = List.of();
+    private long statsRefreshedAt;
+
+    private static class ContentBlock {
+        final long hash;
+        final List<ContentElement> elements;
+
+        ContentBlock(long hash, List<ContentElement> elements) {
+            this.hash = hash;
+            this.elements = elements;
         }
     }
 
@@ -71,89 +98,166 @@ public class PatchNotesScreen extends Screen {
         contentElements.add(new ContentElement(ContentElement.Type.TEXT, ""));
         contentElements.add(new ContentElement(ContentElement.Type.TEXT, "§7Fetching data from Hypixel forums..."));
 
-        HypixelPatchNotesFetcher.fetchLatestPatchNotesAsync().thenAccept(data -> {
-            contentElements.clear();
-            patchUrl = data.url;
-            patchTitle = data.title;
-            parseContent(data.content);
-            scrollOffset = 0;
-            targetScrollOffset = 0;
-        });
-    }
-
-    private void parseContent(List<String> rawContent) {
-        Pattern imgPattern = Pattern.compile("<img[^>]+src=[\"']([^\"']+)[\"']");
-
-        for (String line : rawContent) {
-            Matcher matcher = imgPattern.matcher(line);
-            if (matcher.find()) {
-                String imageUrl = matcher.group(1);
-                contentElements.add(new ContentElement(ContentElement.Type.IMAGE, imageUrl));
-                loadImage(imageUrl);
-            } else if (!line.trim().isEmpty()) {
-                contentElements.add(new ContentElement(ContentElement.Type.TEXT, line));
+        // Content is swapped on the client thread so render never sees a half-built list
+        HypixelPatchNotesFetcher.fetchLatestPatchNotesAsync().thenAccept(data ->
+                MinecraftClient.getInstance().execute(() -> showPatchNotes(data)));
+    }
+
+    private void showPatchNotes(HypixelPatchNotesFetcher.PatchNotesData data) {
+        patchData = data;
+        patchUrl = data.url;
+        patchTitle = data.title;
+
+        contentBlocks.clear();
+        for (HypixelPatchNotesFetcher.Block block : data.blocks) {
+            contentBlocks.add(buildBlock(block, false));
+        }
+        rebuildContentElements();
+
+        scrollOffset = 0;
+        targetScrollOffset = 0;
+        viewDirty = true;
+    }
+
+    /**
+     * Fetches the post again and swaps in only the blocks that changed, keeping the scroll position.
+     * Unchanged blocks keep their elements, so their images keep their loaded heights.
+     */
+    private void refreshPatchNotes() {
+        if (refreshing || patchData == null) {
+            return;
+        }
+        refreshing = true;
+
+        HypixelPatchNotesFetcher.fetchLatestPatchNotesAsync(patchData).thenAccept(data ->
+                MinecraftClient.getInstance().execute(() -> {
+                    refreshing = false;
+                    if (data.error) {
+                        // Keep showing what we have rather than replacing it with the error page
+                        SkyblockPatchNotesMod.LOGGER.warn("Refreshing patch notes failed, keeping the current ones");
+                        return;
+                    }
+                    if (patchData.error) {
+                        // Nothing worth keeping from the error page, so show the post from the top
+                        showPatchNotes(data);
+                    } else {
+                        applyRefresh(data);
+                    }
+                }));
+    }
+
+    private void applyRefresh(HypixelPatchNotesFetcher.PatchNotesData data) {
+        // Remember which element is at the top of the view, and how far into it we are scrolled
+        int anchorIndex = layout.indexAt(scrollOffset);
+        ContentElement anchor = anchorIndex >= 0 ? contentElements.get(anchorIndex) : null;
+        double anchorOffset = anchorIndex >= 0 ? scrollOffset - layout.top(anchorIndex) : 0;
+
+        Map<Long, Deque<ContentBlock>> previous = new HashMap<>();
+        for (ContentBlock block : contentBlocks) {
+            previous.computeIfAbsent(block.hash, hash -> new ArrayDeque<>()).add(block);
+        }
+
+        List<ContentBlock> blocks = new ArrayList<>(data.blocks.size());
+        for (HypixelPatchNotesFetcher.Block block : data.blocks) {
+            Deque<ContentBlock> sameHash = previous.get(block.hash);
+            ContentBlock unchanged = sameHash != null ? sameHash.poll() : null;
+            if (unchanged != null) {
+                // Only highlight what changed in the latest refresh
+                for (ContentElement element : unchanged.elements) {
+                    element.changed = false;
+                }
+                blocks.add(unchanged);
             } else {
-                contentElements.add(new ContentElement(ContentElement.Type.TEXT, ""));
+                blocks.add(buildBlock(block, true));
             }
         }
+
+        patchData = data;
+        patchUrl = data.url;
+        patchTitle = data.title;
+        contentBlocks.clear();
+        contentBlocks.addAll(blocks);
+        rebuildContentElements();
+
+        // Put the anchor element back where it was on screen, if it survived the refresh
+        if (anchor != null) {
+            for (int i = 0; i < contentElements.size(); i++) {
+                if (contentElements.get(i) == anchor) {
+                    double shift = layout.top(i) + anchorOffset - scrollOffset;
+                    scrollOffset += shift;
+                    targetScrollOffset += shift;
+                    break;
+                }
+            }
+        }
+        targetScrollOffset = clampScroll(targetScrollOffset);
+    }
+
+    /**
+     * Builds the elements for one block of the post and starts loading its images
+     */
+    private ContentBlock buildBlock(HypixelPatchNotesFetcher.Block block, boolean changed) {
+        List<ContentElement> elements = PatchNotesContent.build(block.lines);
+
+        for (ContentElement element : elements) {
+            element.changed = changed;
+            if (element.type == ContentElement.Type.IMAGE) {
+                // Images seen before already have a texture, so they can be laid out at full size straight away
+                ImageInfo img = loadedImages.get(element.content);
+                if (img != null && img.loaded) {
+                    element.height = scaledImageHeight(img.width, img.height);
+                }
+                loadImage(element.content);
+            }
+        }
+
+        return new ContentBlock(block.hash, elements);
+    }
+
+    private void rebuildContentElements() {
+        contentElements.clear();
+        for (ContentBlock block : contentBlocks) {
+            contentElements.addAll(block.elements);
+        }
+        invalidateLayout();
+    }
+
+    private void invalidateLayout() {
+        layout.invalidate();
+        viewDirty = true;
     }
 
     private void loadImage(String imageUrl) {
         if (loadedImages.containsKey(imageUrl)) {
-            SkyblockPatchNotesMod.LOGGER.info("Image already cached: {}", imageUrl);
+            PatchNotesMetrics.IMAGE_CACHE_HITS.increment();
+            if (SkyblockPatchNotesMod.DEBUG) {
+                SkyblockPatchNotesMod.LOGGER.info("Image already cached: {}", imageUrl);
+            }
             return;
         }
+        PatchNotesMetrics.IMAGE_CACHE_MISSES.increment();
 
         ImageInfo info = new ImageInfo();
         info.loaded = false;
         loadedImages.put(imageUrl, info);
+        pendingImages++;
 
-        new Thread(() -> {
+        ImageDownloader.downloadAsync(imageUrl, "ImageLoader-" + imageCounter).thenAccept(bytes -> {
             try {
-                SkyblockPatchNotesMod.LOGGER.info("=== Starting image download ===");
-                SkyblockPatchNotesMod.LOGGER.info("URL: {}", imageUrl);
-
-                URL url = new URL(imageUrl);
-                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                connection.setRequestProperty("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-                connection.setConnectTimeout(10000);
-                connection.setReadTimeout(10000);
-                connection.setInstanceFollowRedirects(true);
-                connection.connect();
-
-                int responseCode = connection.getResponseCode();
-                SkyblockPatchNotesMod.LOGGER.info("HTTP Response: {}", responseCode);
-
-                if (responseCode == 301 || responseCode == 302) {
-                    String newUrl = connection.getHeaderField("Location");
-                    if (newUrl != null) {
-                        SkyblockPatchNotesMod.LOGGER.info("Redirecting to: " + newUrl);
-                        loadImage(newUrl);
-                    }
-                    return;
-                }
-
-                if (responseCode != 200) {
-                    SkyblockPatchNotesMod.LOGGER.error("Failed: HTTP {}", responseCode);
-                    return;
-                }
-
-                InputStream stream = connection.getInputStream();
-                SkyblockPatchNotesMod.LOGGER.info("Stream opened, reading image...");
-
                 NativeImage nativeImage;
+                long decodeStart = System.nanoTime();
                 try {
-                    nativeImage = NativeImage.read(stream);
+                    nativeImage = NativeImage.read(new ByteArrayInputStream(bytes));
+                    PatchNotesMetrics.IMAGE_DECODE.recordSince(decodeStart);
                 } catch (Exception e) {
                     SkyblockPatchNotesMod.LOGGER.error("Failed to parse image data", e);
-                    stream.close();
+                    PatchNotesMetrics.IMAGE_FAILURES.increment();
                     return;
                 }
 
-                stream.close();
-
                 if (nativeImage == null) {
                     SkyblockPatchNotesMod.LOGGER.error("NativeImage.read returned null");
+                    PatchNotesMetrics.IMAGE_FAILURES.increment();
                     return;
                 }
 
@@ -161,38 +265,38 @@ public class PatchNotesScreen extends Screen {
                 final int height = nativeImage.getHeight();
                 final NativeImage finalImage = nativeImage;
 
-                SkyblockPatchNotesMod.LOGGER.info("Image parsed: {}x{}", width, height);
-                SkyblockPatchNotesMod.LOGGER.info("Registering on main thread...");
+                if (SkyblockPatchNotesMod.DEBUG) {
+                    SkyblockPatchNotesMod.LOGGER.info("Image parsed: {}x{}", width, height);
+                }
 
                 MinecraftClient.getInstance().execute(() -> {
                     try {
                         Identifier id = Identifier.of("skyblockpatchnotes", "img_" + imageCounter++);
-                        SkyblockPatchNotesMod.LOGGER.info("Creating texture: {}", id);
 
+                        long uploadStart = System.nanoTime();
                         MinecraftClient.getInstance().getTextureManager().registerTexture(id,
                                 new net.minecraft.client.texture.NativeImageBackedTexture(() -> id.toString(), finalImage));
+                        PatchNotesMetrics.IMAGE_UPLOAD.recordSince(uploadStart);
+                        PatchNotesMetrics.TEXTURE_BYTES.add(textureBytes(width, height));
+                        PatchNotesMetrics.TEXTURE_COUNT.add(1);
 
                         info.identifier = id;
                         info.width = width;
                         info.height = height;
                         info.loaded = true;
 
-                        // Dynamic Height Calculation
-                        int maxWidth = this.width - (PADDING * 4);
-                        // Calculate scaling factor (constrain to screen width, don't enlarge)
-                        float scale = Math.min((float) maxWidth / width, 1.0f);
-                        int scaledHeight = (int) (height * scale);
-
-                        // Find and update the content element with the accurate scaled height + PADDING
+                        // Update every element showing this image with the accurate scaled height
+                        int scaledHeight = scaledImageHeight(width, height);
                         for (ContentElement element : contentElements) {
                             if (element.type == ContentElement.Type.IMAGE && element.content.equals(imageUrl)) {
-                                element.height = scaledHeight + PADDING;
-                                SkyblockPatchNotesMod.LOGGER.info("Updated element height for {} to {}", imageUrl, element.height);
-                                break;
+                                element.height = scaledHeight;
                             }
                         }
+                        invalidateLayout();
 
-                        SkyblockPatchNotesMod.LOGGER.info("✓✓✓ SUCCESS! Image loaded and ready to render! ✓✓✓");
+                        if (SkyblockPatchNotesMod.DEBUG) {
+                            SkyblockPatchNotesMod.LOGGER.info("Texture {} ready for {}", id, imageUrl);
+                        }
                     } catch (Exception e) {
                         SkyblockPatchNotesMod.LOGGER.error("Failed to register texture", e);
                         e.printStackTrace();
@@ -203,21 +307,50 @@ public class PatchNotesScreen extends Screen {
                 SkyblockPatchNotesMod.LOGGER.error("=== IMAGE LOAD FAILED ===", e);
                 e.printStackTrace();
             }
-        }, "ImageLoader-" + imageCounter).start();
+        }).whenComplete((ignored, error) ->
+                // Queued after the texture upload above, so the screen only goes idle once the height is in
+                MinecraftClient.getInstance().execute(() -> pendingImages--));
+    }
+
+    /**
+     * Height of an image element: the image scaled to fit the screen width (never enlarged), plus PADDING
+     */
+    private int scaledImageHeight(int imageWidth, int imageHeight) {
+        int maxWidth = this.width - (PADDING * 4);
+        float scale = Math.min((float) maxWidth / imageWidth, 1.0f);
+        return (int) (imageHeight * scale) + PADDING;
     }
 
     @Override
     protected void init() {
         super.init();
-        // Only the Done button remains
+        linkWidth = this.textRenderer.getWidth(LINK_TEXT);
+        // The content area changes with the window size
+        viewDirty = true;
+
+        this.addDrawableChild(ButtonWidget.builder(Text.literal("Refresh"), button -> {
+            this.refreshPatchNotes();
+        }).dimensions(this.width / 2 - 100, this.height - 30, 98, 20).build());
+
         this.addDrawableChild(ButtonWidget.builder(Text.literal("Done"), button -> {
             this.close();
-        }).dimensions(this.width / 2 - 100, this.height - 30, 200, 20).build());
+        }).dimensions(this.width / 2 + 2, this.height - 30, 98, 20).build());
     }
 
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
-        scrollOffset += (targetScrollOffset - scrollOffset) * SCROLL_SPEED;
+        long frameStart = System.nanoTime();
+        double frameSeconds = lastFrameNanos == 0 ? 0 : (frameStart - lastFrameNanos) / 1_000_000_000.0;
+        lastFrameNanos = frameStart;
+
+        // Once the scroll has settled and nothing is loading, the previous frame's view still holds
+        if (isIdle()) {
+            PatchNotesMetrics.RENDER_IDLE_FRAMES.increment();
+        } else {
+            stepScroll(frameSeconds);
+            updateView();
+        }
+
         super.render(context, mouseX, mouseY, delta);
 
         int fixedYOffset = 15;
@@ -232,16 +365,11 @@ public class PatchNotesScreen extends Screen {
         fixedYOffset += 20;
 
         if (patchUrl != null) {
-            Text linkText = Text.literal("View on Hypixel Forums")
-                    .styled(s -> s.withColor(Formatting.AQUA).withUnderline(true));
-
-            int linkWidth = this.textRenderer.getWidth(linkText);
             int linkX = (this.width - linkWidth) / 2;
 
-            context.drawTextWithShadow(this.textRenderer, linkText, linkX, fixedYOffset, 0x00FFFF);
+            context.drawTextWithShadow(this.textRenderer, LINK_TEXT, linkX, fixedYOffset, 0x00FFFF);
 
-            if (mouseX >= linkX && mouseX <= linkX + linkWidth &&
-                    mouseY >= fixedYOffset && mouseY <= fixedYOffset + LINE_HEIGHT) {
+            if (linkHovered) {
                 context.fill(linkX, fixedYOffset + LINE_HEIGHT - 1, linkX + linkWidth, fixedYOffset + LINE_HEIGHT, 0xFF00FFFF);
             }
 
@@ -250,15 +378,22 @@ public class PatchNotesScreen extends Screen {
 
         int contentTop = fixedYOffset;
         int contentBottom = this.height - 40;
-        int contentHeight = contentBottom - contentTop;
 
         context.enableScissor(PADDING, contentTop, this.width - PADDING, contentBottom);
 
-        int yPos = contentTop - (int) scrollOffset;
+        // Start at the first visible element and stop at the bottom edge, instead of walking the whole post
+        int start = Math.max(firstVisible, 0);
+        int yPos = contentTop - (int) scrollOffset + layout.top(start);
 
-        for (ContentElement element : contentElements) {
+        for (int i = start; i < contentElements.size() && yPos < contentBottom; i++) {
+            ContentElement element = contentElements.get(i);
             // Check if element is within the visible scroll window
-            if (yPos + element.height > contentTop && yPos < contentBottom) {
+            if (yPos + element.height > contentTop) {
+                if (element.changed) {
+                    // Mark what changed in the last refresh with a bar in the margin
+                    context.fill(PADDING, yPos, PADDING + 2, yPos + element.height, 0xFFFFAA00);
+                }
+
                 if (element.type == ContentElement.Type.TEXT) {
                     context.drawTextWithShadow(this.textRenderer, element.content, PADDING + 5, yPos, 0xFFFFFF);
                 } else if (element.type == ContentElement.Type.IMAGE) {
@@ -304,13 +439,10 @@ public class PatchNotesScreen extends Screen {
 
         context.disableScissor();
 
-        // Total content height is now calculated accurately using the dynamic heights
-        int totalContentHeight = 0;
-        for (ContentElement element : contentElements) {
-            totalContentHeight += element.height;
-        }
+        int maxScroll = maxScroll();
+        if (maxScroll > 0) {
+            renderScrollbar(context, contentTop, contentBottom, maxScroll);
 
-        if (totalContentHeight > contentHeight) {
             if (targetScrollOffset > 0) {
                 context.drawCenteredTextWithShadow(
                         this.textRenderer,
@@ -322,7 +454,7 @@ public class PatchNotesScreen extends Screen {
             }
 
             // Correct check for when to display the "Scroll Down" hint
-            if (targetScrollOffset < totalContentHeight - contentHeight) {
+            if (targetScrollOffset < maxScroll) {
                 context.drawCenteredTextWithShadow(
                         this.textRenderer,
                         Text.literal("▼ Scroll Down").formatted(Formatting.GRAY),
@@ -332,53 +464,255 @@ public class PatchNotesScreen extends Screen {
                 );
             }
         }
+
+        if (showStats) {
+            renderStatsOverlay(context);
+        }
+
+        PatchNotesMetrics.RENDER_FRAME.recordSince(frameStart);
+    }
+
+    private boolean isIdle() {
+        return scrollOffset == targetScrollOffset && pendingImages == 0 && !viewDirty;
+    }
+
+    /**
+     * Eases scrollOffset towards targetScrollOffset. The step depends on how long the frame took, not on
+     * the frame rate, so scrolling takes the same time at 30 and 240 FPS.
+     */
+    private void stepScroll(double frameSeconds) {
+        if (scrollOffset == targetScrollOffset) {
+            return;
+        }
+
+        // SCROLL_SPEED per frame at REFERENCE_FPS, compounded over however many of those frames this one lasted
+        double remaining = Math.pow(1 - SCROLL_SPEED, frameSeconds * REFERENCE_FPS);
+        scrollOffset = targetScrollOffset + (scrollOffset - targetScrollOffset) * remaining;
+
+        if (Math.abs(targetScrollOffset - scrollOffset) < SCROLL_SETTLE_DISTANCE) {
+            scrollOffset = targetScrollOffset;
+        }
+    }
+
+    /**
+     * Recomputes what the render loop needs from the layout: the scroll bounds and the first visible element
+     */
+    private void updateView() {
+        // The content can shrink under the current scroll, e.g. after a refresh or a resize
+        targetScrollOffset = clampScroll(targetScrollOffset);
+        firstVisible = layout.indexAt((int) scrollOffset);
+        viewDirty = false;
+    }
+
+    private void renderScrollbar(DrawContext context, int contentTop, int contentBottom, int maxScroll) {
+        int x = scrollbarX();
+        int thumbHeight = scrollbarThumbHeight(contentBottom - contentTop);
+        int thumbTop = scrollbarThumbTop(contentTop, contentBottom, thumbHeight, maxScroll);
+
+        context.fill(x, contentTop, x + SCROLLBAR_WIDTH, contentBottom, 0x40FFFFFF);
+        context.fill(x, thumbTop, x + SCROLLBAR_WIDTH, thumbTop + thumbHeight, draggingScrollbar ? 0xFFFFFFFF : 0xFFAAAAAA);
+    }
+
+    /**
+     * Draws the metrics in the top-left corner. The lines are rebuilt a couple of times a second,
+     * not every frame, so the overlay barely shows up in the frame time it reports.
+     */
+    private void renderStatsOverlay(DrawContext context) {
+        long now = System.nanoTime();
+        if (statsLines.isEmpty() || now - statsRefreshedAt > STATS_REFRESH_NANOS) {
+            statsLines = PatchNotesMetrics.overlayLines();
+            statsRefreshedAt = now;
+        }
+
+        int widest = 0;
+        for (String line : statsLines) {
+            widest = Math.max(widest, this.textRenderer.getWidth(line));
+        }
+
+        int y = 4;
+        context.fill(2, 2, 6 + widest, 4 + statsLines.size() * (LINE_HEIGHT - 2), 0xA0000000);
+        for (String line : statsLines) {
+            context.drawTextWithShadow(this.textRenderer, line, 4, y, 0xE0E0E0);
+            y += LINE_HEIGHT - 2;
+        }
+    }
+
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        if (keyCode == STATS_KEY) {
+            showStats = !showStats;
+            return true;
+        }
+        if (scrollByKey(keyCode)) {
+            return true;
+        }
+        return super.keyPressed(keyCode, scanCode, modifiers);
+    }
+
+    /**
+     * Up and Down move one element at a time (at most a page, for tall images), Page Up and Page Down
+     * a page, Home and End to either end. Targets come straight from the layout, then ease as usual.
+     */
+    private boolean scrollByKey(int keyCode) {
+        int page = contentBottom() - contentTop() - LINE_HEIGHT;
+        int current = layout.indexAt(targetScrollOffset);
+        double target;
+
+        switch (keyCode) {
+            case GLFW.GLFW_KEY_DOWN -> {
+                if (current < 0) return true;
+                target = Math.min(layout.top(current + 1), targetScrollOffset + page);
+            }
+            case GLFW.GLFW_KEY_UP -> {
+                if (current < 0) return true;
+                // Back to the top of the current element, or the previous one if already there
+                int previous = layout.top(current) < targetScrollOffset ? current : Math.max(current - 1, 0);
+                target = Math.max(layout.top(previous), targetScrollOffset - page);
+            }
+            case GLFW.GLFW_KEY_PAGE_DOWN -> target = targetScrollOffset + page;
+            case GLFW.GLFW_KEY_PAGE_UP -> target = targetScrollOffset - page;
+            case GLFW.GLFW_KEY_HOME -> target = 0;
+            case GLFW.GLFW_KEY_END -> target = maxScroll();
+            default -> {
+                return false;
+            }
+        }
+
+        targetScrollOffset = clampScroll(target);
+        return true;
+    }
+
+    private static long textureBytes(int width, int height) {
+        // NativeImage textures are RGBA, 4 bytes per pixel
+        return (long) width * height * 4;
     }
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
-        if (patchUrl != null && button == 0) {
-            int yOffset = 15 + 20;
+        if (button == 0 && isOverLink(mouseX, mouseY)) {
+            net.minecraft.util.Util.getOperatingSystem().open(patchUrl);
+            return true;
+        }
 
-            Text linkText = Text.literal("View on Hypixel Forums");
-            int linkWidth = this.textRenderer.getWidth(linkText);
-            int linkX = (this.width - linkWidth) / 2;
+        if (button == 0 && isOverScrollbar(mouseX, mouseY)) {
+            int contentTop = contentTop();
+            int thumbHeight = scrollbarThumbHeight(contentBottom() - contentTop);
+            int thumbTop = scrollbarThumbTop(contentTop, contentBottom(), thumbHeight, maxScroll());
 
-            if (mouseX >= linkX && mouseX <= linkX + linkWidth &&
-                    mouseY >= yOffset && mouseY <= yOffset + LINE_HEIGHT) {
-                net.minecraft.util.Util.getOperatingSystem().open(patchUrl);
-                return true;
+            if (mouseY >= thumbTop && mouseY < thumbTop + thumbHeight) {
+                dragGrabOffset = mouseY - thumbTop;
+            } else {
+                // Clicking the track jumps there, with the thumb centred under the mouse
+                dragGrabOffset = thumbHeight / 2.0;
+                scrollToThumb(mouseY);
             }
+            draggingScrollbar = true;
+            return true;
         }
         return super.mouseClicked(mouseX, mouseY, button);
     }
 
     @Override
-    public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
-        int fixedHeight = 15 + 20;
-        if (patchUrl != null) fixedHeight += 20;
+    public boolean mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+        if (draggingScrollbar) {
+            scrollToThumb(mouseY);
+            return true;
+        }
+        return super.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
+    }
 
-        int contentTop = fixedHeight;
-        int contentBottom = this.height - 40;
-        int contentHeight = contentBottom - contentTop;
+    @Override
+    public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        if (draggingScrollbar && button == 0) {
+            draggingScrollbar = false;
+            return true;
+        }
+        return super.mouseReleased(mouseX, mouseY, button);
+    }
 
-        int totalContentHeight = 0;
-        for (ContentElement element : contentElements) {
-            totalContentHeight += element.height;
+    @Override
+    public void mouseMoved(double mouseX, double mouseY) {
+        // Hover is only worked out when the mouse moves, not every frame
+        linkHovered = isOverLink(mouseX, mouseY);
+        super.mouseMoved(mouseX, mouseY);
+    }
+
+    private boolean isOverLink(double mouseX, double mouseY) {
+        if (patchUrl == null) {
+            return false;
         }
+        int linkX = (this.width - linkWidth) / 2;
+        int linkY = 15 + 20;
+        return mouseX >= linkX && mouseX <= linkX + linkWidth &&
+                mouseY >= linkY && mouseY <= linkY + LINE_HEIGHT;
+    }
+
+    private boolean isOverScrollbar(double mouseX, double mouseY) {
+        // A little wider than what is drawn, so it is easy to grab
+        return maxScroll() > 0 && mouseX >= scrollbarX() - 2 && mouseX <= scrollbarX() + SCROLLBAR_WIDTH + 2 &&
+                mouseY >= contentTop() && mouseY < contentBottom();
+    }
+
+    /**
+     * Jumps straight to the offset matching a thumb position, without easing
+     */
+    private void scrollToThumb(double mouseY) {
+        int contentTop = contentTop();
+        int track = contentBottom() - contentTop - scrollbarThumbHeight(contentBottom() - contentTop);
+        double fraction = track > 0 ? (mouseY - dragGrabOffset - contentTop) / track : 0;
+
+        targetScrollOffset = clampScroll(fraction * maxScroll());
+        scrollOffset = targetScrollOffset;
+        viewDirty = true;
+    }
 
-        int maxScroll = Math.max(0, totalContentHeight - contentHeight);
+    private int scrollbarX() {
+        return this.width - PADDING + 2;
+    }
 
-        targetScrollOffset -= verticalAmount * LINE_HEIGHT * 2;
-        targetScrollOffset = Math.max(0, Math.min(targetScrollOffset, maxScroll));
+    private int scrollbarThumbTop(int contentTop, int contentBottom, int thumbHeight, int maxScroll) {
+        // scrollOffset can briefly run past maxScroll while easing back after the content shrank
+        double fraction = Math.min(scrollOffset / maxScroll, 1.0);
+        return contentTop + (int) ((contentBottom - contentTop - thumbHeight) * fraction);
+    }
+
+    private int scrollbarThumbHeight(int contentHeight) {
+        // Proportional to how much of the post fits on screen
+        return Math.max(SCROLLBAR_MIN_THUMB, (int) ((long) contentHeight * contentHeight / Math.max(1, layout.totalHeight())));
+    }
+
+    @Override
+    public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        targetScrollOffset = clampScroll(targetScrollOffset - verticalAmount * LINE_HEIGHT * 2);
 
         return true;
     }
 
+    private int contentTop() {
+        int fixedHeight = 15 + 20;
+        if (patchUrl != null) fixedHeight += 20;
+        return fixedHeight;
+    }
+
+    private int contentBottom() {
+        return this.height - 40;
+    }
+
+    private int maxScroll() {
+        return Math.max(0, layout.totalHeight() - (contentBottom() - contentTop()));
+    }
+
+    private double clampScroll(double offset) {
+        return Math.max(0, Math.min(offset, maxScroll()));
+    }
+
     @Override
     public void close() {
         for (ImageInfo img : loadedImages.values()) {
             if (img.loaded && img.identifier != null && this.client != null) {
                 this.client.getTextureManager().destroyTexture(img.identifier);
+                PatchNotesMetrics.TEXTURE_BYTES.add(-textureBytes(img.width, img.height));
+                PatchNotesMetrics.TEXTURE_COUNT.add(-1);
             }
         }
         if (this.client != null) {
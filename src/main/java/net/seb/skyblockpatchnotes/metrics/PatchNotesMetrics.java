@@ -0,0 +1,239 @@
+package net.seb.skyblockpatchnotes.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timers, counters and gauges for the mod.
+ * Recording is lock-free and does not allocate, so it is safe on the render thread and on loader threads.
+ * All metrics are created up front, which keeps the registry read-only after class initialisation.
+ */
+public final class PatchNotesMetrics {
+    private static final Map<String, Summary> SUMMARIES = new LinkedHashMap<>();
+    private static final Map<String, Counter> COUNTERS = new LinkedHashMap<>();
+    private static final Map<String, Gauge> GAUGES = new LinkedHashMap<>();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    // Fetching, one timer per step
+    public static final Summary FETCH_TOTAL = timer("fetch.total");
+    public static final Summary FETCH_FORUMS = timer("fetch.forums");
+    public static final Summary FETCH_NEWS = timer("fetch.news");
+    public static final Summary FETCH_THREAD = timer("fetch.thread");
+    public static final Summary PARSE_THREAD = timer("parse.thread");
+    public static final Counter FETCH_FAILURES = counter("fetch.failures");
+    public static final Summary PAGE_BYTES = summary("http.page.bytes", "bytes");
+    public static final Counter BLOCK_CACHE_HITS = counter("parse.block.reused");
+    public static final Counter BLOCK_CACHE_MISSES = counter("parse.block.parsed");
+
+    // Images
+    public static final Summary IMAGE_DOWNLOAD = timer("image.download");
+    public static final Summary IMAGE_BYTES = summary("http.image.bytes", "bytes");
+    public static final Summary IMAGE_DECODE = timer("image.decode");
+    public static final Summary IMAGE_UPLOAD = timer("image.upload");
+    public static final Counter IMAGE_FAILURES = counter("image.failures");
+    public static final Counter IMAGE_CACHE_HITS = counter("image.cache.hit");
+    public static final Counter IMAGE_CACHE_MISSES = counter("image.cache.miss");
+    public static final Gauge TEXTURE_BYTES = gauge("texture.bytes");
+    public static final Gauge TEXTURE_COUNT = gauge("texture.count");
+
+    // Screen
+    public static final Summary RENDER_FRAME = timer("screen.render");
+    public static final Counter RENDER_IDLE_FRAMES = counter("screen.render.idle");
+
+    private PatchNotesMetrics() {
+    }
+
+    /**
+     * Count, total, max and last value of something recorded repeatedly.
+     * Timers record nanoseconds and are reported in milliseconds.
+     */
+    public static final class Summary {
+        private final String unit;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+        private volatile long last;
+
+        private Summary(String unit) {
+            this.unit = unit;
+        }
+
+        public void record(long value) {
+            count.increment();
+            total.add(value);
+            max.accumulate(value);
+            last = value;
+        }
+
+        /**
+         * Records the time since {@code startNanos}, taken from {@link System#nanoTime()}
+         */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public double mean() {
+            long n = count.sum();
+            return n == 0 ? 0 : scale(total.sum()) / n;
+        }
+
+        public double max() {
+            return scale(max.get());
+        }
+
+        public double last() {
+            return scale(last);
+        }
+
+        public double total() {
+            return scale(total.sum());
+        }
+
+        public String unit() {
+            return unit.equals("ns") ? "ms" : unit;
+        }
+
+        private double scale(long value) {
+            return unit.equals("ns") ? value / 1_000_000.0 : value;
+        }
+    }
+
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * A value that goes up and down, such as the texture memory currently held
+     */
+    public static final class Gauge {
+        private final AtomicLong value = new AtomicLong();
+
+        public void add(long delta) {
+            value.addAndGet(delta);
+        }
+
+        public long get() {
+            return value.get();
+        }
+    }
+
+    private static Summary timer(String name) {
+        return summary(name, "ns");
+    }
+
+    private static Summary summary(String name, String unit) {
+        Summary summary = new Summary(unit);
+        SUMMARIES.put(name, summary);
+        return summary;
+    }
+
+    private static Counter counter(String name) {
+        Counter counter = new Counter();
+        COUNTERS.put(name, counter);
+        return counter;
+    }
+
+    private static Gauge gauge(String name) {
+        Gauge gauge = new Gauge();
+        GAUGES.put(name, gauge);
+        return gauge;
+    }
+
+    /**
+     * Share of image requests served from the screen's texture cache, or 0 before any request
+     */
+    public static double imageCacheHitRatio() {
+        long hits = IMAGE_CACHE_HITS.get();
+        long total = hits + IMAGE_CACHE_MISSES.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Share of top-level post blocks reused from the previous fetch instead of parsed again
+     */
+    public static double blockCacheHitRatio() {
+        long hits = BLOCK_CACHE_HITS.get();
+        long total = hits + BLOCK_CACHE_MISSES.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Snapshot of every metric, as exported by /showpatchnotes stats
+     */
+    public static JsonObject toJson() {
+        JsonObject root = new JsonObject();
+
+        JsonObject summaries = new JsonObject();
+        SUMMARIES.forEach((name, summary) -> {
+            JsonObject json = new JsonObject();
+            json.addProperty("unit", summary.unit());
+            json.addProperty("count", summary.count());
+            json.addProperty("total", summary.total());
+            json.addProperty("mean", summary.mean());
+            json.addProperty("max", summary.max());
+            json.addProperty("last", summary.last());
+            summaries.add(name, json);
+        });
+        root.add("summaries", summaries);
+
+        JsonObject counters = new JsonObject();
+        COUNTERS.forEach((name, counter) -> counters.addProperty(name, counter.get()));
+        root.add("counters", counters);
+
+        JsonObject gauges = new JsonObject();
+        GAUGES.forEach((name, gauge) -> gauges.addProperty(name, gauge.get()));
+        root.add("gauges", gauges);
+
+        JsonObject ratios = new JsonObject();
+        ratios.addProperty("image.cache.hit", imageCacheHitRatio());
+        ratios.addProperty("parse.block.reused", blockCacheHitRatio());
+        root.add("ratios", ratios);
+
+        return root;
+    }
+
+    public static String toJsonString() {
+        return GSON.toJson(toJson());
+    }
+
+    /**
+     * Short human-readable lines for the in-game overlay
+     */
+    public static List<String> overlayLines() {
+        List<String> lines = new ArrayList<>();
+        SUMMARIES.forEach((name, summary) -> {
+            if (summary.count() > 0) {
+                lines.add(String.format(Locale.ROOT, "%s: %.2f avg / %.2f max %s (n=%d)",
+                        name, summary.mean(), summary.max(), summary.unit(), summary.count()));
+            }
+        });
+        COUNTERS.forEach((name, counter) -> lines.add(name + ": " + counter.get()));
+        lines.add(String.format(Locale.ROOT, "image cache hit ratio: %.0f%%", imageCacheHitRatio() * 100));
+        lines.add(String.format(Locale.ROOT, "blocks reused on refresh: %.0f%%", blockCacheHitRatio() * 100));
+        lines.add(String.format(Locale.ROOT, "texture memory: %.1f MiB in %d textures",
+                TEXTURE_BYTES.get() / (1024.0 * 1024.0), TEXTURE_COUNT.get()));
+        return lines;
+    }
+}
@@ -1,22 +1,46 @@
 package net.seb.skyblockpatchnotes.scraper;
 
-import net.seb.skyblockpatchnotes.SkyblockPatchNotesMod;
+import net.seb.skyblockpatchnotes.metrics.PatchNotesMetrics;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.CDataNode;
+import org.jsoup.nodes.DataNode;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.jsoup.select.Elements;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
 
 /**
- * Fetches and parses Hypixel SkyBlock patch notes from the forums
+ * Fetches and parses Hypixel SkyBlock patch notes from the forums.
+ * Uses no Minecraft classes, so it also runs headless (see {@link PatchNotesExporter}).
  */
 public class HypixelPatchNotesFetcher {
     private static final String HYPIXEL_FORUMS = "https://hypixel.net/forums/";
+    private static final String HYPIXEL_SITE = "https://hypixel.net";
     private static final String NEWS_SECTION = "News and Announcements";
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    // Where fetching starts and what root-relative image paths resolve against; see setBaseUrls
+    private static volatile String forumsUrl = HYPIXEL_FORUMS;
+    private static volatile String siteUrl = HYPIXEL_SITE;
+    // Top-level blocks parsed per fork-join task; shorter posts are parsed on the calling thread
+    private static final int PARSE_CHUNK_SIZE = 64;
+    private static final Pattern VERSION_NUMBER = Pattern.compile("\\d+\\.\\d+");
 
     // Container for patch notes data
     public static class PatchNotesData {
@@ -24,22 +48,69 @@ public class HypixelPatchNotesFetcher {
         public String url;
         public String imageUrl;
         public List<String> content;
+        // The same lines grouped by the top-level block they came from; content is these in order
+        public List<Block> blocks;
+        // Set when fetching failed and content is an error message
+        public boolean error;
 
         public PatchNotesData() {
             this.content = new ArrayList<>();
+            this.blocks = new ArrayList<>();
         }
     }
 
+    /**
+     * The lines parsed from one top-level block of a post, with a hash of the block's HTML.
+     * Blocks with the same hash produce the same lines, so a refresh only parses blocks it has not seen.
+     */
+    public static class Block {
+        public final long hash;
+        public final List<String> lines;
+
+        public Block(long hash, List<String> lines) {
+            this.hash = hash;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * Points the fetcher at a different forum, e.g. a local stand-in for load testing.
+     * {@code siteUrl} is what root-relative image paths like "/attachments/..." are resolved against.
+     */
+    public static void setBaseUrls(String forumsUrl, String siteUrl) {
+        HypixelPatchNotesFetcher.forumsUrl = forumsUrl;
+        HypixelPatchNotesFetcher.siteUrl = siteUrl;
+    }
+
+    /**
+     * Restores the live Hypixel forum URLs
+     */
+    public static void resetBaseUrls() {
+        setBaseUrls(HYPIXEL_FORUMS, HYPIXEL_SITE);
+    }
+
     /**
      * Fetches patch notes asynchronously to avoid blocking the game thread
      */
     public static CompletableFuture<PatchNotesData> fetchLatestPatchNotesAsync() {
+        return fetchLatestPatchNotesAsync(null);
+    }
+
+    /**
+     * Fetches patch notes asynchronously, reusing the parsed blocks of {@code previous} (may be null)
+     * for any part of the post that has not changed since
+     */
+    public static CompletableFuture<PatchNotesData> fetchLatestPatchNotesAsync(PatchNotesData previous) {
         return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
             try {
-                return fetchLatestPatchNotes();
+                return fetchLatestPatchNotes(previous);
             } catch (Exception e) {
-                SkyblockPatchNotesMod.LOGGER.error("Failed to fetch patch notes", e);
+                ScraperLog.LOGGER.error("Failed to fetch patch notes", e);
+                PatchNotesMetrics.FETCH_FAILURES.increment();
                 return getErrorData();
+            } finally {
+                PatchNotesMetrics.FETCH_TOTAL.recordSince(start);
             }
         });
     }
@@ -47,55 +118,101 @@ public class HypixelPatchNotesFetcher {
     /**
      * Fetches the latest SkyBlock patch notes from Hypixel forums
      */
-    private static PatchNotesData fetchLatestPatchNotes() throws IOException {
-        PatchNotesData data = new PatchNotesData();
+    private static PatchNotesData fetchLatestPatchNotes(PatchNotesData previous) throws IOException {
+        // Steps 1-2: Find the "News and Announcements" section
+        String newsUrl = fetchNewsSectionUrl();
 
-        SkyblockPatchNotesMod.LOGGER.info("Fetching Hypixel forums homepage...");
+        // Step 3: Fetch the News and Announcements page
+        long start = System.nanoTime();
+        Document newsPage = fetchPage(newsUrl);
+        PatchNotesMetrics.FETCH_NEWS.recordSince(start);
 
-        // Step 1: Fetch the main forums page
-        Document forumsPage = Jsoup.connect(HYPIXEL_FORUMS)
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(10000)
-                .get();
+        // Step 4: Find the latest SkyBlock update thread
+        String updateUrl = findLatestSkyBlockUpdate(newsPage);
+        if (updateUrl == null) {
+            throw new IOException("Could not find latest SkyBlock update");
+        }
+
+        if (ScraperLog.DEBUG) {
+            ScraperLog.LOGGER.info("Found latest update: {}", updateUrl);
+        }
+
+        // Step 5: Fetch the update thread and parse it
+        return fetchUpdateThread(updateUrl, previous);
+    }
+
+    /**
+     * Fetches the forums homepage and returns the URL of the News and Announcements section
+     */
+    public static String fetchNewsSectionUrl() throws IOException {
+        if (ScraperLog.DEBUG) {
+            ScraperLog.LOGGER.info("Fetching Hypixel forums homepage...");
+        }
+
+        long start = System.nanoTime();
+        Document forumsPage = fetchPage(forumsUrl);
+        PatchNotesMetrics.FETCH_FORUMS.recordSince(start);
 
-        // Step 2: Find the "News and Announcements" section
         String newsUrl = findNewsSectionUrl(forumsPage);
         if (newsUrl == null) {
             throw new IOException("Could not find News and Announcements section");
         }
 
-        SkyblockPatchNotesMod.LOGGER.info("Found News section: {}", newsUrl);
+        if (ScraperLog.DEBUG) {
+            ScraperLog.LOGGER.info("Found News section: {}", newsUrl);
+        }
+        return newsUrl;
+    }
 
-        // Step 3: Fetch the News and Announcements page
-        Document newsPage = Jsoup.connect(newsUrl)
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(10000)
-                .get();
+    /**
+     * Fetches one page of the news section and returns every SkyBlock update thread on it, newest first
+     */
+    public static List<String> fetchSkyBlockUpdateUrls(String newsPageUrl) throws IOException {
+        long start = System.nanoTime();
+        Document newsPage = fetchPage(newsPageUrl);
+        PatchNotesMetrics.FETCH_NEWS.recordSince(start);
 
-        // Step 4: Find the latest SkyBlock update thread
-        String updateUrl = findLatestSkyBlockUpdate(newsPage);
-        if (updateUrl == null) {
-            throw new IOException("Could not find latest SkyBlock update");
-        }
+        return findSkyBlockUpdates(newsPage);
+    }
 
+    /**
+     * Fetches a single update thread and parses its first post
+     */
+    public static PatchNotesData fetchUpdateThread(String updateUrl) throws IOException {
+        return fetchUpdateThread(updateUrl, null);
+    }
+
+    /**
+     * Fetches a single update thread, only parsing the blocks that are not in {@code previous} (may be null)
+     */
+    public static PatchNotesData fetchUpdateThread(String updateUrl, PatchNotesData previous) throws IOException {
+        PatchNotesData data = new PatchNotesData();
         data.url = updateUrl;
-        SkyblockPatchNotesMod.LOGGER.info("Found latest update: {}", updateUrl);
 
-        // Step 5: Fetch the update thread and parse it
-        Document updatePage = Jsoup.connect(updateUrl)
-                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                .timeout(10000)
-                .get();
+        long start = System.nanoTime();
+        Document updatePage = fetchPage(updateUrl);
+        PatchNotesMetrics.FETCH_THREAD.recordSince(start);
 
-        parseUpdateThread(updatePage, data);
+        start = System.nanoTime();
+        parseUpdateThread(updatePage, data, previous);
+        PatchNotesMetrics.PARSE_THREAD.recordSince(start);
 
         return data;
     }
 
+    private static Document fetchPage(String url) throws IOException {
+        Connection.Response response = Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .timeout(10000)
+                .execute();
+        PatchNotesMetrics.PAGE_BYTES.record(response.bodyAsBytes().length);
+        return response.parse();
+    }
+
     /**
      * Finds the URL for the News and Announcements section
      */
-    private static String findNewsSectionUrl(Document forumsPage) {
+    static String findNewsSectionUrl(Document forumsPage) {
         // Look for links or sections containing "News and Announcements"
         Elements links = forumsPage.select("a[href]");
 
@@ -126,15 +243,12 @@ public class HypixelPatchNotesFetcher {
     /**
      * Finds the latest Hypixel SkyBlock update thread
      */
-    private static String findLatestSkyBlockUpdate(Document newsPage) {
+    static String findLatestSkyBlockUpdate(Document newsPage) {
         // Look for thread titles containing "SkyBlock" or "Hypixel SkyBlock"
         Elements threads = newsPage.select(".structItem-title a");
 
         for (Element thread : threads) {
-            String title = thread.text();
-            // Look for threads that mention SkyBlock and version numbers
-            if ((title.contains("SkyBlock") || title.contains("Skyblock")) &&
-                    (title.matches(".*\\d+\\.\\d+.*") || title.contains("Update"))) {
+            if (isSkyBlockUpdate(thread.text())) {
                 return thread.attr("abs:href");
             }
         }
@@ -142,10 +256,36 @@ public class HypixelPatchNotesFetcher {
         return null;
     }
 
+    /**
+     * Finds every Hypixel SkyBlock update thread on a news page, in page order
+     */
+    static List<String> findSkyBlockUpdates(Document newsPage) {
+        List<String> updates = new ArrayList<>();
+        for (Element thread : newsPage.select(".structItem-title a")) {
+            if (isSkyBlockUpdate(thread.text())) {
+                updates.add(thread.attr("abs:href"));
+            }
+        }
+        return updates;
+    }
+
+    private static boolean isSkyBlockUpdate(String title) {
+        // Look for threads that mention SkyBlock and version numbers
+        return (title.contains("SkyBlock") || title.contains("Skyblock")) &&
+                (VERSION_NUMBER.matcher(title).find() || title.contains("Update"));
+    }
+
     /**
      * Parses the update thread and extracts formatted patch notes
      */
-    private static void parseUpdateThread(Document updatePage, PatchNotesData data) {
+    static void parseUpdateThread(Document updatePage, PatchNotesData data) {
+        parseUpdateThread(updatePage, data, null);
+    }
+
+    /**
+     * Parses the update thread, reusing the lines of any block already parsed in {@code previous} (may be null)
+     */
+    static void parseUpdateThread(Document updatePage, PatchNotesData data, PatchNotesData previous) {
         // Get the thread title
         Element titleElement = updatePage.selectFirst(".p-title-value");
         data.title = titleElement != null ? titleElement.text() : "Hypixel SkyBlock Update";
@@ -157,152 +297,354 @@ public class HypixelPatchNotesFetcher {
             // Try to find the header image (usually the first large image)
             Element headerImage = firstPost.selectFirst("img");
             if (headerImage != null) {
-                String imgSrc = headerImage.attr("src");
-                // Make sure it's a full URL
-                if (imgSrc.startsWith("//")) {
-                    imgSrc = "https:" + imgSrc;
-                } else if (imgSrc.startsWith("/")) {
-                    imgSrc = "https://hypixel.net" + imgSrc;
-                }
-                data.imageUrl = imgSrc;
+                data.imageUrl = resolveImageUrl(headerImage.attr("src"));
             }
 
             // Parse the content - convert BB code and HTML to Minecraft formatting
-            parseContent(firstPost, data.content);
+            data.blocks = parseContent(firstPost, indexBlocks(previous));
+            for (Block block : data.blocks) {
+                data.content.addAll(block.lines);
+            }
         } else {
+            data.blocks.add(new Block(0, List.of("§cCould not parse patch notes content")));
             data.content.add("§cCould not parse patch notes content");
         }
     }
 
+    private static Map<Long, Block> indexBlocks(PatchNotesData previous) {
+        if (previous == null || previous.error) {
+            return Map.of();
+        }
+
+        Map<Long, Block> blocks = new HashMap<>(previous.blocks.size() * 2);
+        for (Block block : previous.blocks) {
+            blocks.put(block.hash, block);
+        }
+        return blocks;
+    }
+
     /**
-     * Parses HTML content and converts it to Minecraft-formatted text
+     * Parses HTML content and converts it to Minecraft-formatted text, one {@link Block} per top-level element.
+     * Blocks whose hash is in {@code previous} are reused rather than parsed again.
+     * Long posts are split into chunks of top-level blocks and parsed on the fork-join pool;
+     * the chunks are merged back in document order, so the output matches a serial parse.
      */
-    private static void parseContent(Element content, List<String> notes) {
-        // Process each element
-        for (Element element : content.children()) {
-            String tagName = element.tagName();
-            // DO NOT extract text here; extract it after images are removed.
-
-            // Check for images first
-            if (tagName.equals("img")) {
-                String imgSrc = element.attr("src");
-                if (imgSrc.startsWith("//")) {
-                    imgSrc = "https:" + imgSrc;
-                } else if (imgSrc.startsWith("/")) {
-                    imgSrc = "https://hypixel.net" + imgSrc;
-                }
-                notes.add("<img src=\"" + imgSrc + "\">");
-                notes.add("");
+    static List<Block> parseContent(Element content, Map<Long, Block> previous) {
+        Elements elements = content.children();
+
+        if (elements.size() <= PARSE_CHUNK_SIZE) {
+            // Not worth handing off to the pool
+            List<Block> blocks = new ArrayList<>(elements.size());
+            parseBlocks(elements, 0, elements.size(), previous, blocks);
+            return blocks;
+        }
+
+        return ForkJoinPool.commonPool().invoke(new ParseTask(elements, 0, elements.size(), previous));
+    }
+
+    /**
+     * Parses a contiguous range of top-level blocks, splitting it in half until it is small enough
+     */
+    private static class ParseTask extends RecursiveTask<List<Block>> {
+        private final List<Element> elements;
+        private final int from;
+        private final int to;
+        private final Map<Long, Block> previous;
+
+        ParseTask(List<Element> elements, int from, int to, Map<Long, Block> previous) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.previous = previous;
+        }
+
+        @Override
+        protected List<Block> compute() {
+            if (to - from <= PARSE_CHUNK_SIZE) {
+                List<Block> blocks = new ArrayList<>(to - from);
+                parseBlocks(elements, from, to, previous, blocks);
+                return blocks;
+            }
+
+            int mid = (from + to) >>> 1;
+            ParseTask first = new ParseTask(elements, from, mid, previous);
+            first.fork();
+            List<Block> second = new ParseTask(elements, mid, to, previous).compute();
+
+            // Keep document order: first half, then second half
+            List<Block> blocks = first.join();
+            blocks.addAll(second);
+            return blocks;
+        }
+    }
+
+    /**
+     * Parses the top-level elements in [from, to) into blocks, reusing one collector and line buffer.
+     * An element whose hash is in {@code previous} takes the previous block's lines instead.
+     */
+    static void parseBlocks(List<Element> elements, int from, int to, Map<Long, Block> previous, List<Block> blocks) {
+        BlockCollector collector = new BlockCollector();
+        BlockHasher hasher = new BlockHasher();
+        StringBuilder line = new StringBuilder();
+
+        for (int i = from; i < to; i++) {
+            Element element = elements.get(i);
+            long hash = hasher.hash(element);
+
+            Block unchanged = previous.get(hash);
+            if (unchanged != null) {
+                PatchNotesMetrics.BLOCK_CACHE_HITS.increment();
+                blocks.add(unchanged);
                 continue;
             }
 
-            // --- Begin processing element content ---
+            PatchNotesMetrics.BLOCK_CACHE_MISSES.increment();
+            List<String> lines = new ArrayList<>();
+            parseBlock(element, lines, collector, line);
+            blocks.add(new Block(hash, lines));
+        }
+    }
 
-            switch (tagName) {
-                case "h1":
-                case "h2":
-                case "h3":
-                    // Headers in gold and bold
-                    notes.add("");
-                    notes.add("§6§l" + element.text().trim());
-                    notes.add("");
-                    break;
-
-                case "b":
-                case "strong":
-                    // Bold text
-                    notes.add("§l" + element.text().trim());
-                    break;
-
-                case "ul":
-                case "ol":
-                    // Lists
-                    Elements listItems = element.select("li");
-                    for (Element li : listItems) {
-                        notes.add("§7  • " + li.text().trim());
-                    }
-                    notes.add("");
-                    break;
-
-                case "p":
-                    // Check for images inside paragraphs
-                    Elements images = element.select("img");
-                    for (Element img : images) {
-                        String imgSrc = img.attr("src");
-                        if (imgSrc.startsWith("//")) {
-                            imgSrc = "https:" + imgSrc;
-                        } else if (imgSrc.startsWith("/")) {
-                            imgSrc = "https://hypixel.net" + imgSrc;
-                        }
-                        notes.add("<img src=\"" + imgSrc + "\">");
-                        notes.add("");
-                        // CRITICAL FIX: Remove the image to prevent its content being included in element.text()
-                        img.remove();
-                    }
+    /**
+     * 64-bit FNV-1a hash of an element's tags, attributes and text, without serialising it to HTML
+     */
+    private static class BlockHasher implements NodeVisitor {
+        private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
 
-                    String remainingParagraphText = element.text().trim();
-                    // Paragraphs - split long lines
-                    if (!remainingParagraphText.isEmpty()) {
-                        String[] lines = wrapText(remainingParagraphText, 80);
-                        for (String line : lines) {
-                            notes.add("§7" + line);
-                        }
-                        notes.add("");
-                    }
-                    break;
-
-                default:
-                    // Check for images in any element
-                    Elements imgs = element.select("img");
-                    for (Element img : imgs) {
-                        String imgSrc = img.attr("src");
-                        if (imgSrc.startsWith("//")) {
-                            imgSrc = "https:" + imgSrc;
-                        } else if (imgSrc.startsWith("/")) {
-                            imgSrc = "https://hypixel.net" + imgSrc;
-                        }
-                        notes.add("<img src=\"" + imgSrc + "\">");
-                        notes.add("");
-                        // CRITICAL FIX: Remove the image
-                        img.remove();
-                    }
+        private long hash;
 
-                    // Default: just add the remaining text
-                    String remainingDefaultText = element.text().trim();
-                    if (!remainingDefaultText.isEmpty()) {
-                        notes.add("§7" + remainingDefaultText);
-                    }
-                    break;
+        long hash(Element element) {
+            hash = FNV_OFFSET;
+            NodeTraversor.traverse(this, element);
+            return hash;
+        }
+
+        @Override
+        public void head(Node node, int depth) {
+            if (node instanceof TextNode textNode) {
+                mix('"');
+                mix(textNode.getWholeText());
+            } else if (node instanceof DataNode dataNode) {
+                mix('"');
+                mix(dataNode.getWholeData());
+            } else if (node instanceof Element element) {
+                mix('<');
+                mix(element.normalName());
+                for (Attribute attribute : element.attributes()) {
+                    mix(' ');
+                    mix(attribute.getKey());
+                    mix('=');
+                    mix(attribute.getValue());
+                }
+            }
+        }
+
+        @Override
+        public void tail(Node node, int depth) {
+            if (node instanceof Element) {
+                mix('>');
+            }
+        }
+
+        private void mix(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                mix(value.charAt(i));
             }
         }
+
+        private void mix(char c) {
+            hash = (hash ^ c) * FNV_PRIME;
+        }
+    }
+
+    /**
+     * Converts a single top-level block to Minecraft-formatted lines
+     */
+    private static void parseBlock(Element element, List<String> notes, BlockCollector collector, StringBuilder line) {
+        String tagName = element.tagName();
+
+        // Check for images first
+        if (tagName.equals("img")) {
+            notes.add(imageTag(resolveImageUrl(element.attr("src"))));
+            notes.add("");
+            return;
+        }
+
+        switch (tagName) {
+            case "h1":
+            case "h2":
+            case "h3":
+                // Headers in gold and bold
+                notes.add("");
+                notes.add("§6§l" + element.text().trim());
+                notes.add("");
+                break;
+
+            case "b":
+            case "strong":
+                // Bold text
+                notes.add("§l" + element.text().trim());
+                break;
+
+            case "ul":
+            case "ol":
+                // Lists
+                Elements listItems = element.select("li");
+                for (Element li : listItems) {
+                    notes.add("§7  • " + li.text().trim());
+                }
+                notes.add("");
+                break;
+
+            case "p":
+                // Images inside paragraphs come first, then the wrapped text
+                collector.collect(element);
+                addImages(collector.images, notes);
+
+                String paragraphText = collector.text();
+                // Paragraphs - split long lines
+                if (!paragraphText.isEmpty()) {
+                    wrapText(paragraphText, 80, "§7", line, notes);
+                    notes.add("");
+                }
+                break;
+
+            default:
+                // Check for images in any element
+                collector.collect(element);
+                addImages(collector.images, notes);
+
+                // Default: just add the text
+                String defaultText = collector.text();
+                if (!defaultText.isEmpty()) {
+                    notes.add("§7" + defaultText);
+                }
+                break;
+        }
+    }
+
+    private static void addImages(List<String> images, List<String> notes) {
+        for (String imgSrc : images) {
+            notes.add(imageTag(imgSrc));
+            notes.add("");
+        }
+    }
+
+    private static String imageTag(String imgSrc) {
+        return "<img src=\"" + imgSrc + "\">";
     }
 
     /**
-     * Wraps text to a maximum width
+     * Makes sure an image source is a full URL
      */
-    private static String[] wrapText(String text, int maxWidth) {
-        List<String> lines = new ArrayList<>();
-        String[] words = text.split(" ");
-        StringBuilder currentLine = new StringBuilder();
-
-        for (String word : words) {
-            if (currentLine.length() + word.length() + 1 > maxWidth) {
-                if (currentLine.length() > 0) {
-                    lines.add(currentLine.toString());
-                    currentLine = new StringBuilder();
+    private static String resolveImageUrl(String imgSrc) {
+        if (imgSrc.startsWith("//")) {
+            return "https:" + imgSrc;
+        } else if (imgSrc.startsWith("/")) {
+            return siteUrl + imgSrc;
+        }
+        return imgSrc;
+    }
+
+    /**
+     * Collects an element's text and image sources in a single traversal.
+     * The text is normalised the same way as {@link Element#text()}; images contribute no text,
+     * so they no longer have to be removed from the document before reading it.
+     */
+    private static class BlockCollector implements NodeVisitor {
+        private final StringBuilder accum = new StringBuilder();
+        final List<String> images = new ArrayList<>();
+
+        void collect(Element element) {
+            accum.setLength(0);
+            images.clear();
+            NodeTraversor.traverse(this, element);
+        }
+
+        String text() {
+            return accum.toString().trim();
+        }
+
+        @Override
+        public void head(Node node, int depth) {
+            if (node instanceof TextNode textNode) {
+                if (textNode instanceof CDataNode || preservesWhitespace(textNode.parent())) {
+                    accum.append(textNode.getWholeText());
+                } else {
+                    StringUtil.appendNormalisedWhitespace(accum, textNode.getWholeText(), lastCharIsWhitespace(accum));
+                }
+            } else if (node instanceof Element element) {
+                if (element.normalName().equals("img")) {
+                    images.add(resolveImageUrl(element.attr("src")));
+                }
+                if (accum.length() > 0 &&
+                        (element.isBlock() || element.normalName().equals("br")) &&
+                        !lastCharIsWhitespace(accum)) {
+                    accum.append(' ');
                 }
             }
-            if (currentLine.length() > 0) {
-                currentLine.append(" ");
+        }
+
+        @Override
+        public void tail(Node node, int depth) {
+            // Keep block elements apart from the text that follows them, e.g. <div>One</div>Two.
+            // Images are skipped, giving the same result as if they had been removed from the block.
+            if (node instanceof Element element && element.isBlock()) {
+                Node next = node.nextSibling();
+                while (next instanceof Element sibling && sibling.normalName().equals("img")) {
+                    next = sibling.nextSibling();
+                }
+                if ((next instanceof TextNode || next instanceof Element nextElement && !nextElement.tag().formatAsBlock()) &&
+                        !lastCharIsWhitespace(accum)) {
+                    accum.append(' ');
+                }
             }
-            currentLine.append(word);
         }
 
-        if (currentLine.length() > 0) {
-            lines.add(currentLine.toString());
+        private static boolean preservesWhitespace(Node node) {
+            // Same depth limit as jsoup: this element and five levels up
+            if (node instanceof Element element) {
+                for (int i = 0; i < 6 && element != null; i++) {
+                    if (element.tag().preserveWhitespace()) {
+                        return true;
+                    }
+                    element = element.parent();
+                }
+            }
+            return false;
         }
 
-        return lines.toArray(new String[0]);
+        private static boolean lastCharIsWhitespace(StringBuilder sb) {
+            return sb.length() != 0 && sb.charAt(sb.length() - 1) == ' ';
+        }
+    }
+
+    /**
+     * Wraps text to a maximum width, adding each line to {@code lines} with the given prefix.
+     * The line buffer is reused between calls so wrapping does not allocate per line.
+     */
+    static void wrapText(String text, int maxWidth, String prefix, StringBuilder line, List<String> lines) {
+        int start = prefix.length();
+        line.setLength(0);
+        line.append(prefix);
+
+        for (String word : text.split(" ")) {
+            int length = line.length() - start;
+            if (length + word.length() + 1 > maxWidth && length > 0) {
+                lines.add(line.toString());
+                line.setLength(start);
+                length = 0;
+            }
+            if (length > 0) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+
+        if (line.length() > start) {
+            lines.add(line.toString());
+        }
     }
 
     /**
@@ -310,15 +652,17 @@ public class HypixelPatchNotesFetcher {
      */
     private static PatchNotesData getErrorData() {
         PatchNotesData data = new PatchNotesData();
+        data.error = true;
         data.title = "Error Loading Patch Notes";
-        data.url = "https://hypixel.net/forums/";
+        data.url = forumsUrl;
         data.content.add("§c§lError Loading Patch Notes");
         data.content.add("");
         data.content.add("§7Could not fetch patch notes from Hypixel forums.");
         data.content.add("§7Please check your internet connection and try again.");
         data.content.add("");
         data.content.add("§7You can view patch notes directly at:");
-        data.content.add("§9§nhttps://hypixel.net/forums/");
+        data.content.add("§9§n" + forumsUrl);
+        data.blocks.add(new Block(0, data.content));
         return data;
     }
 }
\ No newline at end of file
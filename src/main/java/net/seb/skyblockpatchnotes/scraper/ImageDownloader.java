@@ -0,0 +1,104 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import net.seb.skyblockpatchnotes.metrics.PatchNotesMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Downloads patch note images. Decoding and texture upload are left to the caller,
+ * so this class has no Minecraft dependencies.
+ */
+public class ImageDownloader {
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    private static final int MAX_REDIRECTS = 5;
+
+    // Applied to every image URL before it is requested; see setUrlRewriter
+    private static volatile UnaryOperator<String> urlRewriter = UnaryOperator.identity();
+
+    /**
+     * Sends image requests somewhere else, e.g. rewrites the live CDN host to a local stand-in
+     */
+    public static void setUrlRewriter(UnaryOperator<String> rewriter) {
+        urlRewriter = rewriter;
+    }
+
+    /**
+     * Downloads an image on its own thread. The future completes on that thread.
+     */
+    public static CompletableFuture<byte[]> downloadAsync(String imageUrl, String threadName) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+
+        new Thread(() -> {
+            long start = System.nanoTime();
+            try {
+                byte[] data = download(imageUrl);
+                PatchNotesMetrics.IMAGE_DOWNLOAD.recordSince(start);
+                PatchNotesMetrics.IMAGE_BYTES.record(data.length);
+                future.complete(data);
+            } catch (Exception e) {
+                ScraperLog.LOGGER.error("=== IMAGE LOAD FAILED ===", e);
+                PatchNotesMetrics.IMAGE_FAILURES.increment();
+                future.completeExceptionally(e);
+            }
+        }, threadName).start();
+
+        return future;
+    }
+
+    /**
+     * Downloads an image, following up to {@value #MAX_REDIRECTS} redirects
+     */
+    public static byte[] download(String imageUrl) throws IOException {
+        if (ScraperLog.DEBUG) {
+            ScraperLog.LOGGER.info("Starting image download: {}", imageUrl);
+        }
+
+        String requestUrl = urlRewriter.apply(imageUrl);
+
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            URL url = URI.create(requestUrl).toURL();
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setRequestProperty("User-Agent", USER_AGENT);
+            connection.setConnectTimeout(10000);
+            connection.setReadTimeout(10000);
+            connection.setInstanceFollowRedirects(true);
+
+            connection.connect();
+
+            int responseCode = connection.getResponseCode();
+            if (ScraperLog.DEBUG) {
+                ScraperLog.LOGGER.info("HTTP Response: {}", responseCode);
+            }
+
+            if (responseCode == 301 || responseCode == 302 || responseCode == 303 ||
+                    responseCode == 307 || responseCode == 308) {
+                String location = connection.getHeaderField("Location");
+                if (location == null) {
+                    throw new IOException("Redirect without a Location header: " + requestUrl);
+                }
+                // Location may be relative to the URL that was requested
+                requestUrl = URI.create(requestUrl).resolve(location).toString();
+                if (ScraperLog.DEBUG) {
+                    ScraperLog.LOGGER.info("Redirecting to: {}", requestUrl);
+                }
+                continue;
+            }
+
+            if (responseCode != 200) {
+                throw new IOException("Failed: HTTP " + responseCode + " for " + requestUrl);
+            }
+
+            try (InputStream stream = connection.getInputStream()) {
+                return stream.readAllBytes();
+            }
+        }
+
+        throw new IOException("Too many redirects: " + imageUrl);
+    }
+}
@@ -0,0 +1,279 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless batch export: fetches many update threads and writes them to disk as JSON Lines,
+ * one thread per line, without starting Minecraft.
+ * <p>
+ * Threads are fetched by a fixed number of workers, with every request going through a shared
+ * {@link RateLimiter}. Each record is flushed as soon as it is written, and a rerun skips every URL
+ * already in the output file, so an interrupted export picks up where it stopped.
+ * <p>
+ * Options are passed as --name=value, e.g. {@code ./gradlew exportPatchNotes --args="--out=notes.jsonl --pages=1-5"}:
+ * <ul>
+ *     <li>out: the JSON Lines file to write (required)</li>
+ *     <li>urls: a file with one thread URL per line, or</li>
+ *     <li>pages: a range of news section pages to collect SkyBlock updates from, e.g. 1-5 (default 1)</li>
+ *     <li>concurrency: number of workers (default 4)</li>
+ *     <li>rate: requests per second across all workers, 0 for no limit (default 1)</li>
+ *     <li>forums-url, site-url: fetch from another forum instead of Hypixel</li>
+ * </ul>
+ */
+public class PatchNotesExporter implements AutoCloseable {
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final Path output;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService workers;
+    // Caps queued work at one task per worker, so a long URL list is not queued all at once
+    private final Semaphore inFlight;
+    private final BufferedWriter writer;
+    private final AtomicInteger exported = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public PatchNotesExporter(Path output, int concurrency, double requestsPerSecond) throws IOException {
+        this.output = output;
+        this.rateLimiter = new RateLimiter(requestsPerSecond);
+        this.workers = Executors.newFixedThreadPool(concurrency, task -> {
+            Thread thread = new Thread(task, "PatchNotesExporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inFlight = new Semaphore(concurrency);
+
+        dropIncompleteLastLine(output);
+        this.writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (!options.containsKey("out")) {
+            System.err.println("Usage: --out=<file.jsonl> [--urls=<file> | --pages=1-5] [--concurrency=4] [--rate=1]");
+            System.exit(2);
+        }
+
+        if (options.containsKey("forums-url")) {
+            HypixelPatchNotesFetcher.setBaseUrls(options.get("forums-url"),
+                    options.getOrDefault("site-url", options.get("forums-url")));
+        }
+
+        Path output = Path.of(options.get("out"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "4"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "1"));
+
+        try (PatchNotesExporter exporter = new PatchNotesExporter(output, concurrency, rate)) {
+            List<String> urls = options.containsKey("urls")
+                    ? readUrlList(Path.of(options.get("urls")))
+                    : exporter.collectNewsSectionUrls(options.getOrDefault("pages", "1"));
+            exporter.export(urls);
+        }
+    }
+
+    /**
+     * Lists the SkyBlock update threads on a range of news section pages, e.g. "1-5", newest first
+     */
+    public List<String> collectNewsSectionUrls(String pageRange) throws IOException, InterruptedException {
+        int dash = pageRange.indexOf('-');
+        int firstPage = Integer.parseInt(dash < 0 ? pageRange : pageRange.substring(0, dash));
+        int lastPage = dash < 0 ? firstPage : Integer.parseInt(pageRange.substring(dash + 1));
+
+        rateLimiter.acquire();
+        String newsUrl = HypixelPatchNotesFetcher.fetchNewsSectionUrl();
+
+        List<Future<List<String>>> pages = new ArrayList<>();
+        for (int page = firstPage; page <= lastPage; page++) {
+            // XenForo paginates forums as <forum>/page-N
+            String pageUrl = page == 1 ? newsUrl : newsUrl + (newsUrl.endsWith("/") ? "" : "/") + "page-" + page;
+            pages.add(workers.submit(() -> {
+                rateLimiter.acquire();
+                return HypixelPatchNotesFetcher.fetchSkyBlockUpdateUrls(pageUrl);
+            }));
+        }
+
+        // Keep page order; sticky threads can show up on more than one page
+        Set<String> urls = new LinkedHashSet<>();
+        for (Future<List<String>> page : pages) {
+            try {
+                urls.addAll(page.get());
+            } catch (Exception e) {
+                ScraperLog.LOGGER.error("Failed to fetch a news section page", e);
+            }
+        }
+
+        System.out.println("Found " + urls.size() + " SkyBlock update threads on pages " + firstPage + "-" + lastPage);
+        return new ArrayList<>(urls);
+    }
+
+    /**
+     * Fetches every URL not already in the output file and appends one JSON record per thread
+     */
+    public void export(List<String> urls) throws IOException, InterruptedException {
+        Set<String> completed = readCompletedUrls(output);
+        List<String> remaining = new ArrayList<>();
+        for (String url : urls) {
+            if (!completed.contains(url)) {
+                remaining.add(url);
+            }
+        }
+
+        System.out.println("Exporting " + remaining.size() + " threads (" + (urls.size() - remaining.size())
+                + " already in " + output + ")");
+
+        for (String url : remaining) {
+            inFlight.acquire();
+            workers.execute(() -> {
+                try {
+                    rateLimiter.acquire();
+                    HypixelPatchNotesFetcher.PatchNotesData data = HypixelPatchNotesFetcher.fetchUpdateThread(url);
+                    write(toJson(data));
+                    System.out.println("[" + exported.incrementAndGet() + "/" + remaining.size() + "] " + url);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    // Not recorded, so the next run tries it again
+                    failed.incrementAndGet();
+                    ScraperLog.LOGGER.error("Failed to export {}", url, e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        System.out.println("Exported " + exported.get() + " threads, " + failed.get() + " failed");
+    }
+
+    private static JsonObject toJson(HypixelPatchNotesFetcher.PatchNotesData data) {
+        JsonObject record = new JsonObject();
+        record.addProperty("url", data.url);
+        record.addProperty("title", data.title);
+        record.addProperty("imageUrl", data.imageUrl);
+        JsonArray content = new JsonArray(data.content.size());
+        for (String line : data.content) {
+            content.add(line);
+        }
+        record.add("content", content);
+        record.addProperty("fetchedAt", Instant.now().toString());
+        return record;
+    }
+
+    private synchronized void write(JsonObject record) throws IOException {
+        writer.write(GSON.toJson(record));
+        writer.newLine();
+        // Flushed per record so a crash never loses finished work
+        writer.flush();
+    }
+
+    /**
+     * URLs of the records already in the output file
+     */
+    private static Set<String> readCompletedUrls(Path output) throws IOException {
+        Set<String> urls = new HashSet<>();
+        if (!Files.exists(output)) {
+            return urls;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(output, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonElement url = JsonParser.parseString(line).getAsJsonObject().get("url");
+                    if (url != null && !url.isJsonNull()) {
+                        urls.add(url.getAsString());
+                    }
+                } catch (JsonParseException | IllegalStateException e) {
+                    ScraperLog.LOGGER.warn("Skipping unreadable line in {}", output);
+                }
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Cuts off a record that was only partly written when a previous run was killed
+     */
+    private static void dropIncompleteLastLine(Path output) throws IOException {
+        if (!Files.exists(output)) {
+            return;
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(output.toFile(), "rw")) {
+            long end = file.length();
+            long pos = end - 1;
+            while (pos >= 0) {
+                file.seek(pos);
+                if (file.read() == '\n') {
+                    break;
+                }
+                pos--;
+            }
+            if (pos + 1 < end) {
+                file.setLength(pos + 1);
+            }
+        }
+    }
+
+    private static List<String> readUrlList(Path file) throws IOException {
+        List<String> urls = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String url = line.trim();
+            if (!url.isEmpty() && !url.startsWith("#")) {
+                urls.add(url);
+            }
+        }
+        return urls;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int equals = arg.indexOf('=');
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    @Override
+    public void close() throws IOException {
+        workers.shutdownNow();
+        writer.close();
+    }
+}
@@ -0,0 +1,37 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces requests evenly so a batch run stays polite to the forums, however many workers it uses.
+ */
+final class RateLimiter {
+    private final long intervalNanos;
+    private long nextPermit = System.nanoTime();
+
+    /**
+     * @param perSecond requests allowed per second; 0 or less means unlimited
+     */
+    RateLimiter(double perSecond) {
+        this.intervalNanos = perSecond > 0 ? (long) (1_000_000_000L / perSecond) : 0;
+    }
+
+    /**
+     * Blocks until the next request may be sent
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextPermit < now) {
+                nextPermit = now;
+            }
+            waitNanos = nextPermit - now;
+            nextPermit += intervalNanos;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
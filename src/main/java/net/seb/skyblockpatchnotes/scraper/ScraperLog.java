@@ -0,0 +1,17 @@
+package net.seb.skyblockpatchnotes.scraper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logging for the scraper. Kept apart from SkyblockPatchNotesMod so the scraper can run
+ * headless, without Minecraft or Fabric on the classpath.
+ */
+final class ScraperLog {
+    // Same logger name and debug flag as SkyblockPatchNotesMod
+    static final Logger LOGGER = LoggerFactory.getLogger("skyblockpatchnotes");
+    static final boolean DEBUG = Boolean.getBoolean("skyblockpatchnotes.debug");
+
+    private ScraperLog() {
+    }
+}